@@ -22,6 +22,11 @@ public class GlobalExceptionHandler {
     return fail(HttpStatus.NOT_FOUND, "NOT_FOUND", e.getMessage());
   }
 
+  @ExceptionHandler(BadRequestException.class)
+  public ResponseEntity<?> handleBadRequest(BadRequestException e) {
+    return fail(HttpStatus.BAD_REQUEST, "BAD_REQUEST", e.getMessage());
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<?> handleValidation(MethodArgumentNotValidException e) {
     var msg = e.getBindingResult().getFieldErrors().stream()
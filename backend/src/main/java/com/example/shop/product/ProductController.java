@@ -1,6 +1,7 @@
 package com.example.shop.product;
 
 import com.example.shop.common.ApiResponse;
+import com.example.shop.product.dto.ProductBatchResponse;
 import com.example.shop.product.dto.ProductCreateRequest;
 import com.example.shop.product.dto.ProductResponse;
 import com.example.shop.product.dto.ProductUpdateRequest;
@@ -15,6 +16,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/products")
 public class ProductController {
@@ -44,6 +47,16 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.ok(service.list(pageable)));
     }
 
+    @Operation(summary = "상품 + 재고 일괄 조회",
+            description = "예) ids=1,2,3 (최대 " + ProductService.MAX_BATCH_SIZE + "개). 없는 ID는 missingIds 로 반환")
+    @GetMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<ProductBatchResponse>> batch(
+            @Parameter(name = "ids", description = "상품 ID 목록(콤마 구분)", required = true, example = "1,2,3")
+            @RequestParam("ids") List<Long> ids
+    ) {
+        return ResponseEntity.ok(ApiResponse.ok(service.getWithStock(ids)));
+    }
+
     @Operation(summary = "상품 상세", description = "상품 ID로 상세 정보를 조회합니다.")
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ApiResponse<ProductResponse>> get(
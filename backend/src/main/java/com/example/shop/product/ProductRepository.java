@@ -1,5 +1,22 @@
 package com.example.shop.product;
 
+import com.example.shop.product.dto.ProductWithStockResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {}
\ No newline at end of file
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductRepository extends JpaRepository<Product, Long> {
+
+  // 상품 + 재고를 한 번의 조인 쿼리로 조회 (재고 없는 상품도 포함)
+  @Query("""
+      select new com.example.shop.product.dto.ProductWithStockResponse(
+          p.id, p.name, p.price, s.quantity, s.version)
+      from Product p
+      left join ProductStock s on s.productId = p.id
+      where p.id in :ids
+      """)
+  List<ProductWithStockResponse> findWithStockByIdIn(@Param("ids") Collection<Long> ids);
+}
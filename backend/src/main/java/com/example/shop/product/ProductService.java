@@ -1,5 +1,6 @@
 package com.example.shop.product;
 
+import com.example.shop.common.BadRequestException;
 import com.example.shop.common.NotFoundException;
 import com.example.shop.product.dto.*;
 import org.springframework.data.domain.Page;
@@ -7,10 +8,20 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @Transactional(readOnly = true)
 public class ProductService {
 
+  // 배치 조회 시 한 번에 받을 수 있는 최대 상품 ID 수
+  public static final int MAX_BATCH_SIZE = 100;
+
   private final ProductRepository repo;
 
   public ProductService(ProductRepository repo) { this.repo = repo; }
@@ -30,6 +41,26 @@ public class ProductService {
     return ProductResponse.of(p);
   }
 
+  public ProductBatchResponse getWithStock(List<Long> ids) {
+    var unique = new LinkedHashSet<Long>();
+    ids.stream().filter(Objects::nonNull).forEach(unique::add);
+    if (unique.size() > MAX_BATCH_SIZE) {
+      throw new BadRequestException("상품 ID는 최대 " + MAX_BATCH_SIZE + "개까지 조회할 수 있습니다.");
+    }
+    if (unique.isEmpty()) return new ProductBatchResponse(List.of(), List.of());
+
+    var found = repo.findWithStockByIdIn(unique).stream()
+        .collect(Collectors.toMap(ProductWithStockResponse::productId, Function.identity()));
+
+    var items = new ArrayList<ProductWithStockResponse>(found.size());
+    var missing = new ArrayList<Long>();
+    for (Long id : unique) {
+      var v = found.get(id);
+      if (v != null) items.add(v); else missing.add(id);
+    }
+    return new ProductBatchResponse(items, missing);
+  }
+
   @Transactional
   public ProductResponse update(Long id, ProductUpdateRequest req) {
     var p = repo.findById(id).orElseThrow(() -> new NotFoundException("Product " + id + " not found"));
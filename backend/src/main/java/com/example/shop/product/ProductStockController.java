@@ -1,5 +1,7 @@
 package com.example.shop.product;
 
+import com.example.shop.common.NotFoundException;
+import com.example.shop.product.dto.StockDtos.StockResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,9 +27,11 @@ public class ProductStockController {
 
     /** 재고 조회 */
     @GetMapping("/{productId}")
-    public ProductStock get(@PathVariable Long productId) {
-        return stockRepository.findById(productId)
-                .orElseThrow(() -> new RuntimeException("재고 정보가 없습니다."));
+    public StockResponse get(@PathVariable Long productId) {
+        ProductStock stock = stockRepository.findById(productId)
+                .orElseThrow(() -> new NotFoundException("재고 정보 없음: " + productId));
+        // 엔티티(지연 로딩 product 프록시 포함) 대신 필요한 값만 반환
+        return new StockResponse(stock.getProductId(), stock.getQuantity(), stock.getVersion());
     }
 
     /** DTO */
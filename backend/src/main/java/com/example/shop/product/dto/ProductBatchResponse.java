@@ -0,0 +1,6 @@
+package com.example.shop.product.dto;
+
+import java.util.List;
+
+// items: 요청 순서대로 찾은 상품, missingIds: 존재하지 않는 상품 ID
+public record ProductBatchResponse(List<ProductWithStockResponse> items, List<Long> missingIds) {}
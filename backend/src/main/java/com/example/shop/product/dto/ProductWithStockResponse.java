@@ -0,0 +1,5 @@
+package com.example.shop.product.dto;
+
+// 상품 + 재고 조합 뷰 (엔티티 직렬화 없이 JPQL 생성자 표현식으로 바로 채움)
+// 재고 행이 없는 상품은 quantity/version 이 null
+public record ProductWithStockResponse(Long productId, String name, Long price, Long quantity, Long version) {}
@@ -0,0 +1,118 @@
+package com.example.shop.product;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 장바구니 50개 렌더링: 상품/재고 개별 호출(2N) vs 배치 호출(1) 비교.
+ * 결과는 표준 출력으로 남기고, 쿼리 수만 검증한다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmarkTest 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.orm.jdbc.bind=warn",
+        "logging.level.org.hibernate.stat=warn",
+        // 세션 종료마다 찍히는 Session Metrics 로그가 요청 수에 비례해 타이밍을 왜곡하므로 끈다
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"
+})
+@AutoConfigureMockMvc
+class ProductBatchBenchmarkTest {
+
+    private static final int CART_SIZE = 50;
+    private static final int WARMUP = 20;
+    private static final int ROUNDS = 50;
+
+    @Autowired MockMvc mvc;
+    @Autowired ProductRepository productRepository;
+    @Autowired ProductStockRepository stockRepository;
+    @Autowired TransactionTemplate tx;
+    @Autowired EntityManagerFactory emf;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void seed() {
+        ids = tx.execute(status -> {
+            var created = new ArrayList<Long>();
+            for (int i = 0; i < CART_SIZE; i++) {
+                Product p = productRepository.save(Product.create("bench-" + i, 1000L + i, null));
+                stockRepository.save(ProductStock.builder().product(p).quantity(10L).build());
+                created.add(p.getId());
+            }
+            return created;
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (ids == null) return; // 시딩 실패 시 원래 예외를 가리지 않도록
+        stockRepository.deleteAllById(ids);
+        productRepository.deleteAllById(ids);
+    }
+
+    @Test
+    void cartRender_batchVsPerItem() throws Exception {
+        String csv = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+        for (int i = 0; i < WARMUP; i++) {
+            renderPerItem();
+            renderBatch(csv);
+        }
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+
+        stats.clear();
+        long t0 = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) renderPerItem();
+        long perItemNanos = System.nanoTime() - t0;
+        long perItemQueries = stats.getPrepareStatementCount() / ROUNDS;
+
+        stats.clear();
+        t0 = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) renderBatch(csv);
+        long batchNanos = System.nanoTime() - t0;
+        long batchQueries = stats.getPrepareStatementCount() / ROUNDS;
+
+        System.out.printf("[bench] cart=%d per-item: %d req, %d queries, %.2f ms/render%n",
+                CART_SIZE, CART_SIZE * 2, perItemQueries, perItemNanos / 1e6 / ROUNDS);
+        System.out.printf("[bench] cart=%d batch   : 1 req, %d queries, %.2f ms/render%n",
+                CART_SIZE, batchQueries, batchNanos / 1e6 / ROUNDS);
+
+        assertThat(perItemQueries).isEqualTo(CART_SIZE * 2L);
+        assertThat(batchQueries).isEqualTo(1L);
+    }
+
+    private void renderPerItem() throws Exception {
+        for (Long id : ids) {
+            mvc.perform(get("/api/v1/products/{id}", id)).andExpect(status().isOk());
+            mvc.perform(get("/api/v1/stocks/{productId}", id)).andExpect(status().isOk());
+        }
+    }
+
+    private void renderBatch(String csv) throws Exception {
+        mvc.perform(get("/api/v1/products/batch").param("ids", csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(CART_SIZE));
+    }
+}
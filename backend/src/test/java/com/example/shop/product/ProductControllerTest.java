@@ -0,0 +1,102 @@
+package com.example.shop.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProductControllerTest {
+
+    private static final Long MISSING_ID = -1L;
+
+    @Autowired MockMvc mvc;
+    @Autowired ProductRepository productRepository;
+    @Autowired ProductStockRepository stockRepository;
+    @Autowired TransactionTemplate tx;
+
+    private Long a, b, noStock;
+
+    @BeforeEach
+    void seed() {
+        tx.executeWithoutResult(status -> {
+            Product pa = productRepository.save(Product.create("batch-a", 1000L, null));
+            Product pb = productRepository.save(Product.create("batch-b", 2000L, null));
+            Product pn = productRepository.save(Product.create("batch-no-stock", 3000L, null));
+            stockRepository.save(ProductStock.builder().product(pa).quantity(10L).build());
+            stockRepository.save(ProductStock.builder().product(pb).quantity(20L).build());
+            a = pa.getId();
+            b = pb.getId();
+            noStock = pn.getId();
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        // 시딩 실패 시 null 이 남으므로 원래 예외를 가리지 않도록 건너뜀
+        List<Long> ids = Stream.of(a, b, noStock).filter(Objects::nonNull).toList();
+        if (ids.isEmpty()) return;
+        stockRepository.deleteAllById(ids);
+        productRepository.deleteAllById(ids);
+    }
+
+    @Test
+    void batch_keepsRequestOrder() throws Exception {
+        mvc.perform(get("/api/v1/products/batch").param("ids", noStock + "," + a + "," + b))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(3))
+                .andExpect(jsonPath("$.data.items[0].productId").value(noStock))
+                .andExpect(jsonPath("$.data.items[1].productId").value(a))
+                .andExpect(jsonPath("$.data.items[1].quantity").value(10))
+                .andExpect(jsonPath("$.data.items[2].productId").value(b))
+                .andExpect(jsonPath("$.data.items[2].quantity").value(20))
+                .andExpect(jsonPath("$.data.missingIds.length()").value(0));
+    }
+
+    @Test
+    void batch_includesProductWithoutStock() throws Exception {
+        mvc.perform(get("/api/v1/products/batch").param("ids", String.valueOf(noStock)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].productId").value(noStock))
+                .andExpect(jsonPath("$.data.items[0].name").value("batch-no-stock"))
+                .andExpect(jsonPath("$.data.items[0].quantity").value(nullValue()))
+                .andExpect(jsonPath("$.data.items[0].version").value(nullValue()))
+                .andExpect(jsonPath("$.data.missingIds.length()").value(0));
+    }
+
+    @Test
+    void batch_marksMissingIds() throws Exception {
+        mvc.perform(get("/api/v1/products/batch").param("ids", a + "," + MISSING_ID + "," + a))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.items[0].productId").value(a))
+                .andExpect(jsonPath("$.data.missingIds.length()").value(1))
+                .andExpect(jsonPath("$.data.missingIds[0]").value(MISSING_ID));
+    }
+
+    @Test
+    void batch_rejectsTooManyIds() throws Exception {
+        String csv = LongStream.rangeClosed(1, ProductService.MAX_BATCH_SIZE + 1)
+                .mapToObj(String::valueOf).collect(Collectors.joining(","));
+        mvc.perform(get("/api/v1/products/batch").param("ids", csv))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("BAD_REQUEST"));
+    }
+}
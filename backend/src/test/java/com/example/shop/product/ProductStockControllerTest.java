@@ -0,0 +1,67 @@
+package com.example.shop.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProductStockControllerTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired ProductRepository productRepository;
+    @Autowired ProductStockRepository stockRepository;
+    @Autowired TransactionTemplate tx;
+
+    private Long withStock, noStock;
+
+    @BeforeEach
+    void seed() {
+        tx.executeWithoutResult(status -> {
+            Product ps = productRepository.save(Product.create("stock-a", 1000L, null));
+            Product pn = productRepository.save(Product.create("stock-none", 2000L, null));
+            stockRepository.save(ProductStock.builder().product(ps).quantity(7L).build());
+            withStock = ps.getId();
+            noStock = pn.getId();
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        // 시딩 실패 시 null 이 남으므로 원래 예외를 가리지 않도록 건너뜀
+        List<Long> ids = Stream.of(withStock, noStock).filter(Objects::nonNull).toList();
+        if (ids.isEmpty()) return;
+        stockRepository.deleteAllById(ids);
+        productRepository.deleteAllById(ids);
+    }
+
+    @Test
+    void get_returnsStockResponseWithoutEntity() throws Exception {
+        mvc.perform(get("/api/v1/stocks/{productId}", withStock))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productId").value(withStock))
+                .andExpect(jsonPath("$.quantity").value(7))
+                .andExpect(jsonPath("$.version").isNumber())
+                .andExpect(jsonPath("$.product").doesNotExist());
+    }
+
+    @Test
+    void get_missingReturnsNotFound() throws Exception {
+        mvc.perform(get("/api/v1/stocks/{productId}", noStock))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error.code").value("NOT_FOUND"));
+    }
+}